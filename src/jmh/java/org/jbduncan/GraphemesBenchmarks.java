@@ -0,0 +1,74 @@
+package org.jbduncan;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GraphemesBenchmarks {
+  public enum Script {
+    ASCII("The quick brown fox jumps over the lazy dog. "),
+    // GRINNING FACE, a UK flag, and a family of MAN, WOMAN and GIRL joined by ZERO WIDTH JOINERs
+    EMOJI(
+        "\uD83D\uDE00\uD83C\uDDEC\uD83C\uDDE7"
+            + "\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67 "),
+    // Devanagari for "kshi namaste hindi", with conjuncts formed by VIRAMA (U+094D)
+    INDIC(
+        "\u0915\u094D\u0937\u093F "
+            + "\u0928\u092E\u0938\u094D\u0924\u0947 "
+            + "\u0939\u093F\u0928\u094D\u0926\u0940 ");
+
+    private final String sample;
+
+    Script(String sample) {
+      this.sample = sample;
+    }
+  }
+
+  @Param({"ASCII", "EMOJI", "INDIC"})
+  public Script script;
+
+  @Param({"10000"})
+  public int length;
+
+  private Graphemes graphemes;
+  private Graphemes graphemesReversed;
+
+  @Setup
+  public void setUp() {
+    // Repeat the sample a whole number of times, so the text never ends part-way through a
+    // surrogate pair.
+    String text = script.sample.repeat(Math.max(1, length / script.sample.length()));
+    graphemes = Graphemes.of(text, null);
+    graphemesReversed = graphemes.reversed();
+  }
+
+  @Benchmark
+  public void forward(Blackhole blackhole) {
+    for (String grapheme : graphemes) {
+      blackhole.consume(grapheme);
+    }
+  }
+
+  @Benchmark
+  public void reversed(Blackhole blackhole) {
+    for (String grapheme : graphemesReversed) {
+      blackhole.consume(grapheme);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package org.jbduncan;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GraphemesPublisherBenchmarks {
+  // A batch size of 1 is equivalent to delivering graphemes one element at a time.
+  @Param({"1", "64"})
+  public int batchSize;
+
+  @Param({"10000"})
+  public int length;
+
+  private Graphemes graphemes;
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() {
+    // 'a', GRINNING FACE, a UK flag, a Devanagari conjunct and a space
+    String sample = "a\uD83D\uDE00\uD83C\uDDEC\uD83C\uDDE7\u0915\u094D\u0937\u093F ";
+    // Repeat the sample a whole number of times, so the text never ends part-way through a
+    // surrogate pair.
+    graphemes = Graphemes.of(sample.repeat(Math.max(1, length / sample.length())), null);
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public void publish(Blackhole blackhole) throws InterruptedException {
+    var completed = new CountDownLatch(1);
+    GraphemesPublisher.of(graphemes, batchSize, executor)
+        .subscribe(
+            new Flow.Subscriber<List<String>>() {
+              Flow.Subscription subscription;
+
+              @Override
+              public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+              }
+
+              @Override
+              public void onNext(List<String> batch) {
+                for (String grapheme : batch) {
+                  blackhole.consume(grapheme);
+                }
+                subscription.request(1);
+              }
+
+              @Override
+              public void onError(Throwable throwable) {
+                completed.countDown();
+              }
+
+              @Override
+              public void onComplete() {
+                completed.countDown();
+              }
+            });
+    completed.await();
+  }
+}
@@ -0,0 +1,163 @@
+package org.jbduncan;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.ibm.icu.text.BreakIterator;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent cache of the grapheme boundaries of strings, for applications that segment the same
+ * strings over and over again. Install one process-wide with {@link
+ * Graphemes#setSharedBoundaryCache(BoundaryCache)}.
+ *
+ * <p>Strings longer than the maximum text length are never cached, and neither is a string until
+ * it has been seen at least twice, so that one-off strings don't evict hot ones.
+ */
+public final class BoundaryCache {
+  private static final int DOORKEEPER_SIZE = 1 << 14;
+
+  private final Cache<String, int[]> cache;
+  private final int maximumTextLength;
+  // Hashes of strings that have been looked up once but not yet cached. Slots may be overwritten
+  // by other strings at any time, which only makes it slower for a string to be admitted.
+  private final AtomicIntegerArray doorkeeper = new AtomicIntegerArray(DOORKEEPER_SIZE);
+  private final LongAdder skipCount = new LongAdder();
+
+  private BoundaryCache(long maximumWeight, int maximumTextLength) {
+    if (maximumWeight < 0) {
+      throw new IllegalArgumentException(
+          "'maximumWeight' must be non-negative but was " + maximumWeight);
+    }
+    if (maximumTextLength < 0) {
+      throw new IllegalArgumentException(
+          "'maximumTextLength' must be non-negative but was " + maximumTextLength);
+    }
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher(BoundaryCache::weigh)
+            .recordStats()
+            .build();
+    this.maximumTextLength = maximumTextLength;
+  }
+
+  /**
+   * Creates a cache whose entries weigh at most {@code maximumWeight} in total, where an entry
+   * weighs roughly the number of bytes taken by its string's chars and boundaries. Strings with
+   * more than {@code maximumTextLength} chars are segmented without ever being cached.
+   *
+   * <p>The cache is split into up to four segments that each get an equal share of {@code
+   * maximumWeight}, so an entry that weighs more than about a quarter of it may never be retained.
+   */
+  public static BoundaryCache create(long maximumWeight, int maximumTextLength) {
+    return new BoundaryCache(maximumWeight, maximumTextLength);
+  }
+
+  public Stats stats() {
+    return new Stats(cache.stats(), skipCount.sum());
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  // Returns the grapheme boundaries of 'text' in ascending order, including 0 and text.length(),
+  // or null if 'text' is too long to be cached, in which case it is better segmented lazily.
+  int[] boundaries(String text) {
+    if (text.length() > maximumTextLength) {
+      skipCount.increment();
+      return null;
+    }
+    int[] boundaries = cache.getIfPresent(text);
+    if (boundaries != null) {
+      return boundaries;
+    }
+    boundaries = computeBoundaries(text);
+    if (admit(text)) {
+      cache.put(text, boundaries);
+    } else {
+      skipCount.increment();
+    }
+    return boundaries;
+  }
+
+  private boolean admit(String text) {
+    // Hashes are stored with their lowest bit set, so that no hash matches an empty slot.
+    int hash = text.hashCode() | 1;
+    int slot = hash & (DOORKEEPER_SIZE - 1);
+    if (doorkeeper.get(slot) == hash) {
+      return true;
+    }
+    doorkeeper.set(slot, hash);
+    return false;
+  }
+
+  private static int[] computeBoundaries(String text) {
+    BreakIterator characterIterator = BreakIterator.getCharacterInstance(Locale.ROOT);
+    characterIterator.setText(text);
+
+    int[] boundaries = new int[Math.min(text.length(), 15) + 1];
+    int count = 0;
+    for (int boundary = characterIterator.first();
+        boundary != BreakIterator.DONE;
+        boundary = characterIterator.next()) {
+      if (count == boundaries.length) {
+        boundaries = Arrays.copyOf(boundaries, Math.min(count * 2, text.length() + 1));
+      }
+      boundaries[count++] = boundary;
+    }
+    return (count == boundaries.length) ? boundaries : Arrays.copyOf(boundaries, count);
+  }
+
+  private static int weigh(String text, int[] boundaries) {
+    return Character.BYTES * text.length() + Integer.BYTES * boundaries.length;
+  }
+
+  public static final class Stats {
+    private final CacheStats cacheStats;
+    private final long skipCount;
+
+    private Stats(CacheStats cacheStats, long skipCount) {
+      this.cacheStats = cacheStats;
+      this.skipCount = skipCount;
+    }
+
+    public long hitCount() {
+      return cacheStats.hitCount();
+    }
+
+    public long missCount() {
+      return cacheStats.missCount();
+    }
+
+    public double hitRate() {
+      return cacheStats.hitRate();
+    }
+
+    public long evictionCount() {
+      return cacheStats.evictionCount();
+    }
+
+    /** The number of strings that were segmented without being cached. */
+    public long skipCount() {
+      return skipCount;
+    }
+
+    @Override
+    public String toString() {
+      return "BoundaryCache.Stats{hitCount="
+          + hitCount()
+          + ", missCount="
+          + missCount()
+          + ", evictionCount="
+          + evictionCount()
+          + ", skipCount="
+          + skipCount
+          + "}";
+    }
+  }
+}
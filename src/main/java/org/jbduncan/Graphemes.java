@@ -10,8 +10,22 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 
 public abstract class Graphemes implements Iterable<String> {
+  private static volatile BoundaryCache sharedBoundaryCache;
+
   public static Graphemes of(String text) {
-    return new RegularGraphemes(text);
+    return of(text, sharedBoundaryCache);
+  }
+
+  static Graphemes of(String text, BoundaryCache boundaryCache) {
+    return new RegularGraphemes(text, boundaryCache);
+  }
+
+  /**
+   * Makes all {@code Graphemes} created by {@link #of(String)} from now on look up their grapheme
+   * boundaries in the given cache, or stop using a cache if it is {@code null}.
+   */
+  public static void setSharedBoundaryCache(BoundaryCache boundaryCache) {
+    sharedBoundaryCache = boundaryCache;
   }
 
   public abstract Graphemes reversed();
@@ -24,13 +38,20 @@ public abstract class Graphemes implements Iterable<String> {
 
   private static final class RegularGraphemes extends Graphemes {
     private final String text;
+    private final BoundaryCache boundaryCache;
 
-    private RegularGraphemes(String text) {
+    private RegularGraphemes(String text, BoundaryCache boundaryCache) {
       this.text = requireNonNull(text, "'text' must be non-null");
+      this.boundaryCache = boundaryCache;
     }
 
     @Override
     public Iterator<String> iterator() {
+      int[] boundaries = (boundaryCache == null) ? null : boundaryCache.boundaries(text);
+      if (boundaries != null) {
+        return cachedIterator(boundaries);
+      }
+
       BreakIterator characterIterator = BreakIterator.getCharacterInstance(Locale.ROOT);
       characterIterator.setText(this.text);
 
@@ -56,6 +77,28 @@ public abstract class Graphemes implements Iterable<String> {
       };
     }
 
+    private Iterator<String> cachedIterator(int[] boundaries) {
+      return new Iterator<>() {
+        int index = 1;
+
+        @Override
+        public boolean hasNext() {
+          return index < boundaries.length;
+        }
+
+        @Override
+        public String next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          String result =
+              RegularGraphemes.this.text.substring(boundaries[index - 1], boundaries[index]);
+          index++;
+          return result;
+        }
+      };
+    }
+
     @Override
     public Graphemes reversed() {
       return new ReversedGraphemes(this);
@@ -71,6 +114,13 @@ public abstract class Graphemes implements Iterable<String> {
 
     @Override
     public Iterator<String> iterator() {
+      BoundaryCache boundaryCache = originalGraphemes.boundaryCache;
+      int[] boundaries =
+          (boundaryCache == null) ? null : boundaryCache.boundaries(originalGraphemes.text);
+      if (boundaries != null) {
+        return cachedIterator(boundaries);
+      }
+
       BreakIterator characterIterator = BreakIterator.getCharacterInstance(Locale.ROOT);
       characterIterator.setText(this.originalGraphemes.text);
 
@@ -96,6 +146,29 @@ public abstract class Graphemes implements Iterable<String> {
       };
     }
 
+    private Iterator<String> cachedIterator(int[] boundaries) {
+      return new Iterator<>() {
+        int index = boundaries.length - 1;
+
+        @Override
+        public boolean hasNext() {
+          return index > 0;
+        }
+
+        @Override
+        public String next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          String result =
+              ReversedGraphemes.this.originalGraphemes.text.substring(
+                  boundaries[index - 1], boundaries[index]);
+          index--;
+          return result;
+        }
+      };
+    }
+
     @Override
     public Graphemes reversed() {
       return originalGraphemes;
@@ -0,0 +1,302 @@
+package org.jbduncan;
+
+import static java.util.Objects.requireNonNull;
+
+import com.ibm.icu.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Flow.Publisher} that delivers graphemes to each of its subscribers in batches, one batch
+ * per {@code onNext}, and only as many batches as have been requested. All signals are sent from
+ * tasks run on the given executor, which may be of any kind, including one that runs each task on
+ * a new virtual thread.
+ *
+ * <p>Each subscriber gets its own pass over the graphemes, which starts on the executor.
+ */
+public final class GraphemesPublisher<T> implements Flow.Publisher<T> {
+  private static final int INITIAL_BATCH_CAPACITY = 256;
+
+  private final Supplier<BatchSource<T>> sourceSupplier;
+  private final int batchSize;
+  private final Executor executor;
+
+  private GraphemesPublisher(
+      Supplier<BatchSource<T>> sourceSupplier, int batchSize, Executor executor) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("'batchSize' must be positive but was " + batchSize);
+    }
+    this.sourceSupplier = sourceSupplier;
+    this.batchSize = batchSize;
+    this.executor = requireNonNull(executor, "'executor' must be non-null");
+  }
+
+  /**
+   * Publishes the given graphemes, e.g. a {@link Graphemes} or a {@link ReversedChannelGraphemes},
+   * as unmodifiable lists of at most {@code batchSize} graphemes each.
+   */
+  public static GraphemesPublisher<List<String>> of(
+      Iterable<String> graphemes, int batchSize, Executor executor) {
+    requireNonNull(graphemes, "'graphemes' must be non-null");
+    return new GraphemesPublisher<>(
+        () -> new GraphemeBatchSource(graphemes.iterator()), batchSize, executor);
+  }
+
+  /**
+   * Publishes the grapheme boundaries of the given text as arrays of at most {@code batchSize + 1}
+   * ascending offsets, where each pair of adjacent offsets is the range of one grapheme. Each array
+   * starts with the offset that the previous one ended with.
+   */
+  public static GraphemesPublisher<int[]> boundariesOf(
+      String text, int batchSize, Executor executor) {
+    requireNonNull(text, "'text' must be non-null");
+    return new GraphemesPublisher<>(() -> new BoundaryBatchSource(text), batchSize, executor);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    requireNonNull(subscriber, "'subscriber' must be non-null");
+    new BatchSubscription(subscriber).start();
+  }
+
+  private interface BatchSource<T> {
+    boolean hasNext();
+
+    T nextBatch(int maximumSize);
+  }
+
+  private static final class GraphemeBatchSource implements BatchSource<List<String>> {
+    private final Iterator<String> graphemes;
+
+    private GraphemeBatchSource(Iterator<String> graphemes) {
+      this.graphemes = graphemes;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return graphemes.hasNext();
+    }
+
+    @Override
+    public List<String> nextBatch(int maximumSize) {
+      List<String> batch = new ArrayList<>(Math.min(maximumSize, INITIAL_BATCH_CAPACITY));
+      while (batch.size() < maximumSize && graphemes.hasNext()) {
+        batch.add(graphemes.next());
+      }
+      return Collections.unmodifiableList(batch);
+    }
+  }
+
+  private static final class BoundaryBatchSource implements BatchSource<int[]> {
+    private final BreakIterator characterIterator =
+        BreakIterator.getCharacterInstance(Locale.ROOT);
+    private int start;
+    private int end;
+
+    private BoundaryBatchSource(String text) {
+      characterIterator.setText(text);
+      this.start = characterIterator.first();
+      this.end = characterIterator.next();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return end != BreakIterator.DONE;
+    }
+
+    @Override
+    public int[] nextBatch(int maximumSize) {
+      int[] batch = new int[Math.min(maximumSize, INITIAL_BATCH_CAPACITY) + 1];
+      batch[0] = start;
+      int count = 1;
+      while (count <= maximumSize && end != BreakIterator.DONE) {
+        if (count == batch.length) {
+          batch = Arrays.copyOf(batch, count + Math.min(count, maximumSize - count + 1));
+        }
+        batch[count++] = end;
+        start = end;
+        end = characterIterator.next();
+      }
+      return (count == batch.length) ? batch : Arrays.copyOf(batch, count);
+    }
+  }
+
+  // Signals are only ever sent by whichever executor task moves 'workInProgress' away from zero,
+  // so they are never sent concurrently, and onSubscribe is sent by the very first such task.
+  private final class BatchSubscription implements Flow.Subscription, Runnable {
+    private final Flow.Subscriber<? super T> subscriber;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger workInProgress = new AtomicInteger(1);
+    private volatile boolean cancelled = false;
+    private volatile IllegalArgumentException invalidRequest = null;
+    private boolean subscribed = false;
+    private BatchSource<T> source;
+
+    private BatchSubscription(Flow.Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    private void start() {
+      try {
+        executor.execute(this);
+      } catch (RejectedExecutionException e) {
+        subscribed = true;
+        if (signalOnSubscribe()) {
+          signalOnError(e);
+        }
+      }
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        invalidRequest =
+            new IllegalArgumentException(
+                "Subscribers must request a positive number of batches but requested " + n);
+      } else {
+        requested.getAndAccumulate(n, GraphemesPublisher::saturatedAdd);
+      }
+      schedule();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      schedule();
+    }
+
+    private void schedule() {
+      if (workInProgress.getAndIncrement() == 0) {
+        try {
+          executor.execute(this);
+        } catch (RejectedExecutionException e) {
+          // This thread is the only one allowed to send signals until 'workInProgress' drops back
+          // to zero, which it never will now.
+          if (!cancelled) {
+            signalOnError(e);
+          }
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      if (!subscribed) {
+        subscribed = true;
+        if (!signalOnSubscribe()) {
+          return;
+        }
+      }
+
+      int missed = 1;
+      while (true) {
+        if (drain()) {
+          source = null;
+          return;
+        }
+        missed = workInProgress.addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+
+    // Returns whether this subscription has finished, i.e. no more signals may be sent.
+    private boolean drain() {
+      long demand = requested.get();
+      long delivered = 0;
+      while (true) {
+        if (cancelled) {
+          return true;
+        }
+        if (invalidRequest != null) {
+          signalOnError(invalidRequest);
+          return true;
+        }
+
+        boolean hasNext;
+        T batch = null;
+        try {
+          if (source == null) {
+            source = sourceSupplier.get();
+          }
+          hasNext = source.hasNext();
+          if (hasNext && delivered != demand) {
+            batch = source.nextBatch(batchSize);
+          }
+        } catch (RuntimeException e) {
+          signalOnError(e);
+          return true;
+        }
+
+        if (!hasNext) {
+          signalOnComplete();
+          return true;
+        }
+        if (batch == null) {
+          break;
+        }
+        try {
+          subscriber.onNext(batch);
+        } catch (RuntimeException e) {
+          // The subscriber has broken rule 2.13 by throwing, so it can't be relied upon to handle
+          // any more signals, including onError.
+          cancelled = true;
+          return true;
+        }
+        delivered++;
+      }
+      if (delivered != 0) {
+        requested.addAndGet(-delivered);
+      }
+      return false;
+    }
+
+    // The signal methods below treat a subscriber that throws the same way as the onNext path in
+    // drain(): it has broken rule 2.13, so the subscription is cancelled without any more signals.
+
+    // Returns whether the subscriber accepted the subscription without throwing.
+    private boolean signalOnSubscribe() {
+      try {
+        subscriber.onSubscribe(this);
+        return true;
+      } catch (RuntimeException e) {
+        cancelled = true;
+        return false;
+      }
+    }
+
+    private void signalOnError(Throwable throwable) {
+      cancelled = true;
+      try {
+        subscriber.onError(throwable);
+      } catch (RuntimeException e) {
+        // The subscription is already cancelled, so there is nothing more to do.
+      }
+    }
+
+    private void signalOnComplete() {
+      cancelled = true;
+      try {
+        subscriber.onComplete();
+      } catch (RuntimeException e) {
+        // The subscription is already cancelled, so there is nothing more to do.
+      }
+    }
+  }
+
+  private static long saturatedAdd(long a, long b) {
+    long sum = a + b;
+    return (sum < 0) ? Long.MAX_VALUE : sum;
+  }
+}
@@ -0,0 +1,212 @@
+package org.jbduncan;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import com.ibm.icu.lang.UCharacter;
+import com.ibm.icu.lang.UCharacter.GraphemeClusterBreak;
+import com.ibm.icu.lang.UCharacter.IndicSyllabicCategory;
+import com.ibm.icu.lang.UProperty;
+import com.ibm.icu.text.BreakIterator;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Iterates over the graphemes of a UTF-8 encoded channel from the last grapheme to the first,
+ * reading the channel backwards in fixed-size blocks. For valid UTF-8, this yields the same
+ * graphemes in the same order as {@code Graphemes.of(contents).reversed()}.
+ *
+ * <p>Each iterator reads the channel from the size it had when the iterator was created, so bytes
+ * appended afterwards (e.g. to a growing log file) are not seen. Iterating moves the channel's
+ * position and does not restore it afterwards, so a channel that is shared with other readers
+ * should be positioned explicitly before they use it again. The channel is not closed.
+ *
+ * <p>Memory use is bounded by the block size, except for text that has no boundary which can be
+ * decided without looking further back, such as an unbroken run of regional indicators.
+ *
+ * <p>Boundaries are resynchronised at block edges conservatively, so that the result stays correct
+ * under the Unicode 15.1 rule for Indic conjuncts as well as the older rules.
+ */
+public final class ReversedChannelGraphemes implements Iterable<String> {
+  private static final int DEFAULT_BLOCK_SIZE = 8192;
+  private static final int MIN_BLOCK_SIZE = 4;
+  private static final int MAX_UTF_8_CONTINUATION_BYTES = 3;
+
+  private final SeekableByteChannel channel;
+  private final int blockSize;
+
+  private ReversedChannelGraphemes(SeekableByteChannel channel, int blockSize) {
+    this.channel = requireNonNull(channel, "'channel' must be non-null");
+    if (blockSize < MIN_BLOCK_SIZE) {
+      throw new IllegalArgumentException(
+          "'blockSize' must be at least " + MIN_BLOCK_SIZE + " but was " + blockSize);
+    }
+    this.blockSize = blockSize;
+  }
+
+  public static ReversedChannelGraphemes of(SeekableByteChannel channel) {
+    return new ReversedChannelGraphemes(channel, DEFAULT_BLOCK_SIZE);
+  }
+
+  public static ReversedChannelGraphemes of(SeekableByteChannel channel, int blockSize) {
+    return new ReversedChannelGraphemes(channel, blockSize);
+  }
+
+  @Override
+  public Iterator<String> iterator() {
+    try {
+      return new BlockIterator(channel.size());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public Spliterator<String> spliterator() {
+    return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.NONNULL);
+  }
+
+  private final class BlockIterator implements Iterator<String> {
+    private final BreakIterator characterIterator =
+        BreakIterator.getCharacterInstance(Locale.ROOT);
+    private final ByteBuffer block = ByteBuffer.allocate(blockSize);
+
+    // Bytes in [0, position) have not been decoded yet.
+    private long position;
+    // Decoded text that precedes 'window' but whose graphemes are not yet known.
+    private String carry = "";
+    // The current window of text and its known grapheme boundaries, in ascending order.
+    private String window = "";
+    private int[] boundaries = new int[16];
+    // The graphemes of 'window' that are still to be returned lie before boundaries[remaining].
+    private int remaining = 0;
+
+    BlockIterator(long size) {
+      this.position = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (remaining == 0 && (position > 0 || !carry.isEmpty())) {
+        readPreviousBlock();
+      }
+      return remaining > 0;
+    }
+
+    @Override
+    public String next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      String result = window.substring(boundaries[remaining - 1], boundaries[remaining]);
+      remaining--;
+      return result;
+    }
+
+    private void readPreviousBlock() {
+      String text = decodePreviousBlock() + carry;
+
+      // Only the boundaries from a safe point onwards are independent of the text that precedes
+      // 'text', so everything before that point is carried over to the next block.
+      characterIterator.setText(text);
+      int safePoint = (position == 0) ? characterIterator.first() : firstSafeBoundary(text);
+      carry = text.substring(0, safePoint);
+      window = text;
+
+      int count = 0;
+      for (int boundary = safePoint;
+          boundary != BreakIterator.DONE;
+          boundary = characterIterator.next()) {
+        if (count == boundaries.length) {
+          boundaries = Arrays.copyOf(boundaries, count * 2);
+        }
+        boundaries[count++] = boundary;
+      }
+      remaining = count - 1;
+    }
+
+    private String decodePreviousBlock() {
+      if (position == 0) {
+        return "";
+      }
+      long blockStart = Math.max(0, position - blockSize);
+      int length = (int) (position - blockStart);
+
+      block.clear().limit(length);
+      try {
+        channel.position(blockStart);
+        while (block.hasRemaining()) {
+          if (channel.read(block) < 0) {
+            throw new EOFException("Channel was truncated while being read");
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      // The block may start part-way through a UTF-8 sequence, so skip past any leading
+      // continuation bytes and leave them to be read with the previous block instead.
+      byte[] bytes = block.array();
+      int start = 0;
+      if (blockStart > 0) {
+        while (start < MAX_UTF_8_CONTINUATION_BYTES && isUtf8ContinuationByte(bytes[start])) {
+          start++;
+        }
+      }
+      position = blockStart + start;
+      return new String(bytes, start, length - start, UTF_8);
+    }
+
+    private int firstSafeBoundary(String text) {
+      int boundary = characterIterator.first();
+      while (boundary != text.length()) {
+        boundary = characterIterator.next();
+        if (boundary != text.length() && isSafeBoundary(text, boundary)) {
+          break;
+        }
+      }
+      return boundary;
+    }
+  }
+
+  // A boundary is "safe" when whether it is a boundary depends only on the code points either
+  // side of it, and not on any text further back. The rules that look further back are the ones
+  // for emoji ZWJ sequences (a ZWJ followed by an Extended_Pictographic), pairs of regional
+  // indicators (flags) and, since Unicode 15.1, Indic conjuncts (a consonant followed by a linker
+  // such as a virama, possibly among other Extend or ZWJ code points, followed by a consonant).
+  // The last is checked for conservatively with Indic_Syllabic_Category, since the
+  // Indic_Conjunct_Break property it is defined with is missing from older versions of ICU.
+  private static boolean isSafeBoundary(String text, int boundary) {
+    int codePointAfter = text.codePointAt(boundary);
+    int before = graphemeClusterBreak(text.codePointBefore(boundary));
+    int after = graphemeClusterBreak(codePointAfter);
+    boolean mayContinueEmojiZwjSequence =
+        before == GraphemeClusterBreak.ZWJ
+            && UCharacter.hasBinaryProperty(codePointAfter, UProperty.EXTENDED_PICTOGRAPHIC);
+    boolean mayContinueFlag =
+        before == GraphemeClusterBreak.REGIONAL_INDICATOR
+            && after == GraphemeClusterBreak.REGIONAL_INDICATOR;
+    boolean mayContinueIndicConjunct =
+        (before == GraphemeClusterBreak.EXTEND || before == GraphemeClusterBreak.ZWJ)
+            && UCharacter.getIntPropertyValue(codePointAfter, UProperty.INDIC_SYLLABIC_CATEGORY)
+                == IndicSyllabicCategory.CONSONANT;
+    return !mayContinueEmojiZwjSequence && !mayContinueFlag && !mayContinueIndicConjunct;
+  }
+
+  private static int graphemeClusterBreak(int codePoint) {
+    return UCharacter.getIntPropertyValue(codePoint, UProperty.GRAPHEME_CLUSTER_BREAK);
+  }
+
+  private static boolean isUtf8ContinuationByte(byte b) {
+    return (b & 0xC0) == 0x80;
+  }
+}
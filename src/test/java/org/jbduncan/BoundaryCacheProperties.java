@@ -0,0 +1,39 @@
+package org.jbduncan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+class BoundaryCacheProperties {
+  @Property
+  void cachedAndUncachedGraphemesAreEqual(
+      @ForAll String string, @ForAll @IntRange(min = 1, max = 5) int times) {
+    // given
+    var boundaryCache = BoundaryCache.create(10_000, 100);
+    var expectedGraphemes = ImmutableList.copyOf(Graphemes.of(string, null));
+
+    // when
+    for (int i = 0; i < times; i++) {
+      // then
+      assertThat(Graphemes.of(string, boundaryCache)).containsExactlyElementsOf(expectedGraphemes);
+    }
+  }
+
+  @Property
+  void cachedAndUncachedGraphemesReversedAreEqual(
+      @ForAll String string, @ForAll @IntRange(min = 1, max = 5) int times) {
+    // given
+    var boundaryCache = BoundaryCache.create(10_000, 100);
+    var expectedGraphemes = ImmutableList.copyOf(Graphemes.of(string, null).reversed());
+
+    // when
+    for (int i = 0; i < times; i++) {
+      // then
+      assertThat(Graphemes.of(string, boundaryCache).reversed())
+          .containsExactlyElementsOf(expectedGraphemes);
+    }
+  }
+}
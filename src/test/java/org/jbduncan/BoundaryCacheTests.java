@@ -0,0 +1,179 @@
+package org.jbduncan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BoundaryCacheTests {
+
+  private static final String UK_FLAG = "\uD83C\uDDEC\uD83C\uDDE7";
+
+  @AfterEach
+  void removeSharedBoundaryCache() {
+    Graphemes.setSharedBoundaryCache(null);
+  }
+
+  @Test
+  void throwsIllegalArgumentExceptionWhenGivenNegativeMaximumWeight() {
+    assertThrows(IllegalArgumentException.class, () -> BoundaryCache.create(-1, 10));
+  }
+
+  @Test
+  void throwsIllegalArgumentExceptionWhenGivenNegativeMaximumTextLength() {
+    assertThrows(IllegalArgumentException.class, () -> BoundaryCache.create(1_000, -1));
+  }
+
+  @Test
+  void stringIsOnlyCachedOnceSeenTwice() {
+    // given
+    var boundaryCache = BoundaryCache.create(1_000, 10);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      ImmutableList.copyOf(Graphemes.of("ab" + UK_FLAG, boundaryCache));
+    }
+
+    // then
+    var stats = boundaryCache.stats();
+    assertThat(stats.missCount()).isEqualTo(2);
+    assertThat(stats.skipCount()).isEqualTo(1);
+    assertThat(stats.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void stringLongerThanMaximumTextLengthIsNeverCached() {
+    // given
+    var boundaryCache = BoundaryCache.create(1_000, 3);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      ImmutableList.copyOf(Graphemes.of("abcd", boundaryCache));
+    }
+
+    // then
+    var stats = boundaryCache.stats();
+    assertThat(stats.hitCount()).isZero();
+    assertThat(stats.skipCount()).isEqualTo(3);
+  }
+
+  @Test
+  void stringLongerThanMaximumTextLengthIsNotSegmentedUpFront() {
+    // given
+    var boundaryCache = BoundaryCache.create(1_000, 3);
+    var text = "a".repeat(1_000_000);
+
+    // when
+    var boundaries = boundaryCache.boundaries(text);
+
+    // then
+    assertThat(boundaries).isNull();
+    assertThat(Graphemes.of(text, boundaryCache).iterator().next()).isEqualTo("a");
+    assertThat(Graphemes.of(text, boundaryCache).reversed().iterator().next()).isEqualTo("a");
+  }
+
+  @Test
+  void emptyStringIsOnlyCachedOnceSeenTwice() {
+    // given
+    var boundaryCache = BoundaryCache.create(1_000, 10);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      ImmutableList.copyOf(Graphemes.of("", boundaryCache));
+    }
+
+    // then
+    var stats = boundaryCache.stats();
+    assertThat(stats.skipCount()).isEqualTo(1);
+    assertThat(stats.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void leastRecentlyUsedStringIsEvictedOnceMaximumWeightIsReached() {
+    // given
+    // Each of "a" and "b" weighs 2 + 2 * 4 = 10, so only one of them fits. A maximum weight below
+    // 20 also keeps the cache to a single segment, so the two strings compete for the same space.
+    var boundaryCache = BoundaryCache.create(19, 10);
+
+    // when
+    for (String string : List.of("a", "a", "b", "b")) {
+      ImmutableList.copyOf(Graphemes.of(string, boundaryCache));
+    }
+
+    // then
+    assertThat(boundaryCache.stats().evictionCount()).isEqualTo(1);
+
+    // when
+    ImmutableList.copyOf(Graphemes.of("b", boundaryCache));
+
+    // then
+    assertThat(boundaryCache.stats().hitCount()).isEqualTo(1);
+
+    // when
+    ImmutableList.copyOf(Graphemes.of("a", boundaryCache));
+
+    // then
+    assertThat(boundaryCache.stats().hitCount()).isEqualTo(1);
+    assertThat(boundaryCache.stats().missCount()).isEqualTo(5);
+  }
+
+  @Test
+  void cachedGraphemes() {
+    // given
+    var boundaryCache = BoundaryCache.create(1_000, 10);
+    Graphemes.setSharedBoundaryCache(boundaryCache);
+
+    // when
+    var graphemes = Graphemes.of("ab" + UK_FLAG);
+    ImmutableList.copyOf(graphemes);
+    ImmutableList.copyOf(graphemes);
+
+    // then
+    assertIterableEquals(List.of("a", "b", UK_FLAG), graphemes);
+    assertThat(boundaryCache.stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void cachedGraphemesReversed() {
+    // given
+    var boundaryCache = BoundaryCache.create(1_000, 10);
+    Graphemes.setSharedBoundaryCache(boundaryCache);
+
+    // when
+    var graphemes = Graphemes.of("ab" + UK_FLAG).reversed();
+    ImmutableList.copyOf(graphemes);
+    ImmutableList.copyOf(graphemes);
+
+    // then
+    assertIterableEquals(List.of(UK_FLAG, "b", "a"), graphemes);
+    assertThat(boundaryCache.stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void cachedGraphemesFulfillsIteratorContract() {
+    // given
+    var expectedGraphemes = List.of("a", "b", "c", "d", "e");
+
+    // when
+    var actualGraphemes = Graphemes.of("abcde", BoundaryCache.create(1_000, 10));
+
+    // then
+    IteratorTesters.iteratorTester(actualGraphemes, expectedGraphemes).test();
+  }
+
+  @Test
+  void cachedGraphemesReversedFulfillsIteratorContract() {
+    // given
+    var expectedGraphemes = List.of("e", "d", "c", "b", "a");
+
+    // when
+    var actualGraphemes = Graphemes.of("abcde", BoundaryCache.create(1_000, 10)).reversed();
+
+    // then
+    IteratorTesters.iteratorTester(actualGraphemes, expectedGraphemes).test();
+  }
+}
@@ -0,0 +1,65 @@
+package org.jbduncan;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+final class ByteArrayChannel implements SeekableByteChannel {
+  private final byte[] bytes;
+  private int position = 0;
+
+  private ByteArrayChannel(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  static ByteArrayChannel ofUtf8(String text) {
+    return new ByteArrayChannel(text.getBytes(UTF_8));
+  }
+
+  @Override
+  public int read(ByteBuffer dst) {
+    if (position >= bytes.length) {
+      return -1;
+    }
+    int length = Math.min(dst.remaining(), bytes.length - position);
+    dst.put(bytes, position, length);
+    position += length;
+    return length;
+  }
+
+  @Override
+  public int write(ByteBuffer src) {
+    throw new NonWritableChannelException();
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public SeekableByteChannel position(long newPosition) {
+    this.position = Math.toIntExact(newPosition);
+    return this;
+  }
+
+  @Override
+  public long size() {
+    return bytes.length;
+  }
+
+  @Override
+  public SeekableByteChannel truncate(long size) {
+    throw new NonWritableChannelException();
+  }
+
+  @Override
+  public boolean isOpen() {
+    return true;
+  }
+
+  @Override
+  public void close() {}
+}
@@ -225,6 +225,19 @@ class GraphemesProperties {
     assertThat(doublyReversedGraphemes).isSameAs(expectedGraphemes).isEqualTo(expectedGraphemes);
   }
 
+  @Property
+  void graphemesReversedAreGraphemesInReverseOrder(
+      @ForAll @StringLength(max = 2_000) String string) {
+    // given
+    var expectedGraphemes = ImmutableList.copyOf(Graphemes.of(string)).reverse();
+
+    // when
+    var actualGraphemes = Graphemes.of(string).reversed();
+
+    // then
+    assertThat(actualGraphemes).containsExactlyElementsOf(expectedGraphemes);
+  }
+
   @Property
   void asciiAlphanumericCharsAndGraphemesAreEqual(
       @ForAll("asciiAlphanumericStrings") String string) {
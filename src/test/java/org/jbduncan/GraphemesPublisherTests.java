@@ -0,0 +1,441 @@
+package org.jbduncan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+
+// Checks the rules of the Reactive Streams specification that apply to publishers, in the spirit
+// of the Reactive Streams TCK. Rule numbers are given in brackets.
+class GraphemesPublisherTests {
+
+  private static final Executor DIRECT_EXECUTOR = Runnable::run;
+  private static final String UK_FLAG = "\uD83C\uDDEC\uD83C\uDDE7";
+
+  @Test
+  void throwsIllegalArgumentExceptionWhenGivenNonPositiveBatchSize() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> GraphemesPublisher.of(Graphemes.of("abc"), 0, DIRECT_EXECUTOR));
+  }
+
+  @Test
+  void subscribeThrowsNullPointerExceptionWhenGivenNullSubscriber() {
+    // [1.9]
+    var publisher = GraphemesPublisher.of(Graphemes.of("abc"), 2, DIRECT_EXECUTOR);
+
+    assertThrows(NullPointerException.class, () -> publisher.subscribe(null));
+  }
+
+  @Test
+  void deliversGraphemesInBatches() throws InterruptedException {
+    // given
+    var publisher = GraphemesPublisher.of(Graphemes.of("abcde"), 2, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(Long.MAX_VALUE);
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.batches)
+        .containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+    assertThat(subscriber.completed).isTrue();
+    assertThat(subscriber.violations).isEmpty();
+  }
+
+  @Test
+  void deliversBoundariesInBatches() throws InterruptedException {
+    // given
+    var publisher = GraphemesPublisher.boundariesOf("ab" + UK_FLAG, 2, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<int[]>requestingOnSubscribe(Long.MAX_VALUE);
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.batches).containsExactly(new int[] {0, 1, 2}, new int[] {2, 6});
+    assertThat(subscriber.completed).isTrue();
+  }
+
+  @Test
+  void deliversReversedChannelGraphemes() throws InterruptedException {
+    // given
+    var publisher =
+        GraphemesPublisher.of(
+            ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8("abc"), 4), 2, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(Long.MAX_VALUE);
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.batches).containsExactly(List.of("c", "b"), List.of("a"));
+  }
+
+  @Test
+  void neverDeliversMoreBatchesThanRequested() {
+    // [1.1]
+    var publisher = GraphemesPublisher.of(Graphemes.of("abcde"), 2, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(0);
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(subscriber.batches).isEmpty();
+
+    // when
+    subscriber.subscription.request(1);
+
+    // then
+    assertThat(subscriber.batches).containsExactly(List.of("a", "b"));
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  void completesWithoutDemandWhenThereAreNoGraphemes() {
+    // [1.4]
+    var publisher = GraphemesPublisher.of(Graphemes.of(""), 2, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(0);
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(subscriber.completed).isTrue();
+    assertThat(subscriber.batches).isEmpty();
+  }
+
+  @Test
+  void completesWithoutFurtherDemandOnceAllGraphemesAreDelivered() {
+    // [1.4]
+    var publisher = GraphemesPublisher.of(Graphemes.of("abcd"), 2, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(2);
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(subscriber.completed).isTrue();
+    assertThat(subscriber.violations).isEmpty();
+  }
+
+  @Test
+  void signalsErrorWhenSourceFails() {
+    // [1.4]
+    var exception = new IllegalStateException("boom");
+    Iterable<String> failingGraphemes =
+        () ->
+            new Iterator<>() {
+              @Override
+              public boolean hasNext() {
+                return true;
+              }
+
+              @Override
+              public String next() {
+                throw exception;
+              }
+            };
+    var publisher = GraphemesPublisher.of(failingGraphemes, 2, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(1);
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(subscriber.error).isSameAs(exception);
+    assertThat(subscriber.violations).isEmpty();
+  }
+
+  @Test
+  void signalsErrorWhenExecutorRejectsSubscription() {
+    // [1.9]
+    Executor rejectingExecutor =
+        command -> {
+          throw new RejectedExecutionException();
+        };
+    var publisher = GraphemesPublisher.of(Graphemes.of("abc"), 2, rejectingExecutor);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(1);
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(subscriber.error).isInstanceOf(RejectedExecutionException.class);
+    assertThat(subscriber.violations).isEmpty();
+  }
+
+  @Test
+  void stopsSignallingWhenSubscriberThrowsFromOnNext() {
+    // [2.13]
+    var publisher = GraphemesPublisher.of(Graphemes.of("abcde"), 1, DIRECT_EXECUTOR);
+    var signals = new CopyOnWriteArrayList<String>();
+    var subscriber =
+        new Flow.Subscriber<List<String>>() {
+          @Override
+          public void onSubscribe(Flow.Subscription subscription) {
+            signals.add("onSubscribe");
+            subscription.request(Long.MAX_VALUE);
+          }
+
+          @Override
+          public void onNext(List<String> batch) {
+            signals.add("onNext");
+            throw new IllegalStateException("boom");
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+            signals.add("onError");
+          }
+
+          @Override
+          public void onComplete() {
+            signals.add("onComplete");
+          }
+        };
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(signals).containsExactly("onSubscribe", "onNext");
+  }
+
+  @Test
+  void stopsSignallingWhenSubscriberThrowsFromOnSubscribe() {
+    // [1.9, 2.13]
+    var publisher = GraphemesPublisher.of(Graphemes.of("abcde"), 1, DIRECT_EXECUTOR);
+    var signals = new CopyOnWriteArrayList<String>();
+    var subscriber =
+        new Flow.Subscriber<List<String>>() {
+          @Override
+          public void onSubscribe(Flow.Subscription subscription) {
+            signals.add("onSubscribe");
+            subscription.request(Long.MAX_VALUE);
+            throw new IllegalStateException("boom");
+          }
+
+          @Override
+          public void onNext(List<String> batch) {
+            signals.add("onNext");
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+            signals.add("onError");
+          }
+
+          @Override
+          public void onComplete() {
+            signals.add("onComplete");
+          }
+        };
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(signals).containsExactly("onSubscribe");
+  }
+
+  @Test
+  void subscribeReturnsNormallyWhenSubscriberThrowsFromOnComplete() {
+    // [1.9, 2.13]
+    var publisher = GraphemesPublisher.of(Graphemes.of(""), 1, DIRECT_EXECUTOR);
+    var signals = new CopyOnWriteArrayList<String>();
+    var subscriber =
+        new Flow.Subscriber<List<String>>() {
+          @Override
+          public void onSubscribe(Flow.Subscription subscription) {
+            signals.add("onSubscribe");
+          }
+
+          @Override
+          public void onNext(List<String> batch) {
+            signals.add("onNext");
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+            signals.add("onError");
+          }
+
+          @Override
+          public void onComplete() {
+            signals.add("onComplete");
+            throw new IllegalStateException("boom");
+          }
+        };
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(signals).containsExactly("onSubscribe", "onComplete");
+  }
+
+  @Test
+  void signalsIllegalArgumentExceptionWhenRequestIsNotPositive() {
+    // [3.9]
+    var publisher = GraphemesPublisher.of(Graphemes.of("abc"), 2, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(0);
+    publisher.subscribe(subscriber);
+
+    // when
+    subscriber.subscription.request(0);
+
+    // then
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    assertThat(subscriber.violations).isEmpty();
+  }
+
+  @Test
+  void signalsIllegalArgumentExceptionAsSoonAsRequestFromOnNextIsNotPositive() {
+    // [3.9]
+    var publisher = GraphemesPublisher.of(Graphemes.of("abcde"), 1, DIRECT_EXECUTOR);
+    var signals = new CopyOnWriteArrayList<String>();
+    var subscriber =
+        new Flow.Subscriber<List<String>>() {
+          private Flow.Subscription subscription;
+
+          @Override
+          public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(3);
+          }
+
+          @Override
+          public void onNext(List<String> batch) {
+            signals.add("onNext");
+            subscription.request(0);
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+            signals.add("onError: " + throwable.getClass().getSimpleName());
+          }
+
+          @Override
+          public void onComplete() {
+            signals.add("onComplete");
+          }
+        };
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(signals).containsExactly("onNext", "onError: IllegalArgumentException");
+  }
+
+  @Test
+  void stopsSignallingOnceCancelled() {
+    // [3.6, 3.7]
+    var publisher = GraphemesPublisher.of(Graphemes.of("abcde"), 2, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(1);
+    publisher.subscribe(subscriber);
+
+    // when
+    subscriber.subscription.cancel();
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(1);
+
+    // then
+    assertThat(subscriber.batches).containsExactly(List.of("a", "b"));
+    assertThat(subscriber.completed).isFalse();
+    assertThat(subscriber.error).isNull();
+  }
+
+  @Test
+  void supportsDemandAddingUpToMoreThanLongMaxValue() throws InterruptedException {
+    // [3.17]
+    var publisher = GraphemesPublisher.of(Graphemes.of("abcde"), 1, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(Long.MAX_VALUE);
+    publisher.subscribe(subscriber);
+
+    // when
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    // then
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.batches).hasSize(5);
+    assertThat(subscriber.violations).isEmpty();
+  }
+
+  @Test
+  void requestingFromOnNextDoesNotRecurse() throws InterruptedException {
+    // [3.3]
+    var text = "a".repeat(100_000);
+    var publisher = GraphemesPublisher.of(Graphemes.of(text), 1, DIRECT_EXECUTOR);
+    var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribeAndOnNext(1);
+
+    // when
+    publisher.subscribe(subscriber);
+
+    // then
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.batches).hasSize(100_000);
+    assertThat(subscriber.violations).isEmpty();
+  }
+
+  @Test
+  void signalsSeriallyOnTheGivenExecutor() throws InterruptedException {
+    // [1.3]
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var publisher = GraphemesPublisher.of(Graphemes.of("a".repeat(10_000)), 7, executor);
+      var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribeAndOnNext(1);
+
+      // when
+      publisher.subscribe(subscriber);
+
+      // then
+      assertThat(subscriber.awaitTermination()).isTrue();
+      assertThat(subscriber.completed).isTrue();
+      assertThat(subscriber.batches.stream().mapToInt(List::size).sum()).isEqualTo(10_000);
+      assertThat(subscriber.onSubscribeThread).isNotSameAs(Thread.currentThread());
+      assertThat(subscriber.violations).isEmpty();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void signalsSeriallyWhenRequestedFromAnotherThread() throws InterruptedException {
+    // [1.3]
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var publisher = GraphemesPublisher.of(Graphemes.of("a".repeat(10_000)), 1, executor);
+      var subscriber = RecordingSubscriber.<List<String>>requestingOnSubscribe(0);
+      publisher.subscribe(subscriber);
+      while (subscriber.subscription == null) {
+        Thread.onSpinWait();
+      }
+
+      // when
+      for (int i = 0; i < 10_000; i++) {
+        subscriber.subscription.request(1);
+      }
+
+      // then
+      assertThat(subscriber.awaitTermination()).isTrue();
+      assertThat(subscriber.completed).isTrue();
+      assertThat(subscriber.batches).hasSize(10_000);
+      assertThat(subscriber.violations).isEmpty();
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.testing.SpliteratorTester;
 import com.ibm.icu.text.UnicodeSet;
@@ -94,6 +95,19 @@ class GraphemesTests {
     assertIterableEquals(List.of(UK_FLAG, SMILEY), graphemes);
   }
 
+  @Test
+  void manyMultibyteGraphemesReversed() {
+    // given
+    var text = Strings.repeat("a" + SMILEY + UK_FLAG, 200);
+    var expectedGraphemes = ImmutableList.copyOf(Graphemes.of(text)).reverse();
+
+    // when
+    var actualGraphemes = Graphemes.of(text).reversed();
+
+    // then
+    assertIterableEquals(expectedGraphemes, actualGraphemes);
+  }
+
   @Test
   void allAsciiAlphanumericGraphemes() {
     // given
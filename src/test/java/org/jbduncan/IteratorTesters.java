@@ -7,7 +7,7 @@ import java.util.List;
 
 final class IteratorTesters {
   static IteratorTester<String> iteratorTester(
-      Graphemes actualGraphemes, List<String> expectedGraphemes) {
+      Iterable<String> actualGraphemes, List<String> expectedGraphemes) {
     return new IteratorTester<>(
         expectedGraphemes.size() + 1,
         IteratorFeature.UNMODIFIABLE,
@@ -0,0 +1,94 @@
+package org.jbduncan;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+  final List<T> batches = new CopyOnWriteArrayList<>();
+  final List<String> violations = new CopyOnWriteArrayList<>();
+  final CountDownLatch terminated = new CountDownLatch(1);
+  volatile Flow.Subscription subscription;
+  volatile Thread onSubscribeThread;
+  volatile Throwable error;
+  volatile boolean completed;
+  private final AtomicBoolean signalling = new AtomicBoolean();
+  private final long requestedOnSubscribe;
+  private final long requestedOnNext;
+
+  private RecordingSubscriber(long requestedOnSubscribe, long requestedOnNext) {
+    this.requestedOnSubscribe = requestedOnSubscribe;
+    this.requestedOnNext = requestedOnNext;
+  }
+
+  static <T> RecordingSubscriber<T> requestingOnSubscribe(long n) {
+    return new RecordingSubscriber<>(n, 0);
+  }
+
+  static <T> RecordingSubscriber<T> requestingOnSubscribeAndOnNext(long n) {
+    return new RecordingSubscriber<>(n, n);
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    enter("onSubscribe");
+    if (this.subscription != null) {
+      violations.add("onSubscribe was signalled more than once");
+    }
+    this.subscription = subscription;
+    this.onSubscribeThread = Thread.currentThread();
+    if (requestedOnSubscribe > 0) {
+      subscription.request(requestedOnSubscribe);
+    }
+    exit();
+  }
+
+  @Override
+  public void onNext(T batch) {
+    enter("onNext");
+    batches.add(batch);
+    if (requestedOnNext > 0) {
+      subscription.request(requestedOnNext);
+    }
+    exit();
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    enter("onError");
+    error = throwable;
+    terminated.countDown();
+    exit();
+  }
+
+  @Override
+  public void onComplete() {
+    enter("onComplete");
+    completed = true;
+    terminated.countDown();
+    exit();
+  }
+
+  boolean awaitTermination() throws InterruptedException {
+    return terminated.await(10, TimeUnit.SECONDS);
+  }
+
+  private void enter(String signal) {
+    if (subscription == null && !signal.equals("onSubscribe")) {
+      violations.add(signal + " was signalled before onSubscribe");
+    }
+    if (terminated.getCount() == 0) {
+      violations.add(signal + " was signalled after a terminal signal");
+    }
+    if (!signalling.compareAndSet(false, true)) {
+      violations.add(signal + " was signalled concurrently with another signal");
+    }
+  }
+
+  private void exit() {
+    signalling.set(false);
+  }
+}
@@ -0,0 +1,83 @@
+package org.jbduncan;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import java.util.HashSet;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+
+class ReversedChannelGraphemesProperties {
+  @Property
+  void reversedChannelGraphemesAndGraphemesReversedAreEqual(
+      @ForAll String string, @ForAll @IntRange(min = 4, max = 64) int blockSize) {
+    // given
+    var utf8String = new String(string.getBytes(UTF_8), UTF_8);
+    var expectedGraphemes = ImmutableList.copyOf(Graphemes.of(utf8String).reversed());
+
+    // when
+    var actualGraphemes = ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8(string), blockSize);
+
+    // then
+    assertThat(actualGraphemes).containsExactlyElementsOf(expectedGraphemes);
+  }
+
+  @Property
+  void reversedChannelGraphemesAndGraphemesReversedAreEqualForContextSensitiveText(
+      @ForAll("contextSensitiveStrings") String string,
+      @ForAll @IntRange(min = 4, max = 64) int blockSize) {
+    // given
+    var expectedGraphemes = ImmutableList.copyOf(Graphemes.of(string).reversed());
+
+    // when
+    var actualGraphemes = ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8(string), blockSize);
+
+    // then
+    assertThat(actualGraphemes).containsExactlyElementsOf(expectedGraphemes);
+  }
+
+  // Strings made of the code points whose grapheme boundaries depend on more than the code points
+  // either side of them, mixed with ones whose boundaries don't.
+  @Provide
+  Arbitrary<String> contextSensitiveStrings() {
+    return Arbitraries.of(
+            "\uD83C\uDDEC", // REGIONAL INDICATOR SYMBOL LETTER G
+            "\uD83C\uDDE7", // REGIONAL INDICATOR SYMBOL LETTER B
+            "\u200D", // ZERO WIDTH JOINER
+            "\uD83D\uDC68", // MAN (Extended_Pictographic)
+            "\u2764", // HEAVY BLACK HEART (Extended_Pictographic)
+            "\u0301", // COMBINING ACUTE ACCENT (Extend)
+            "\uFE0F", // VARIATION SELECTOR-16 (Extend)
+            "\u0915", // DEVANAGARI LETTER KA (consonant)
+            "\u0937", // DEVANAGARI LETTER SSA (consonant)
+            "\u094D", // DEVANAGARI SIGN VIRAMA (linker)
+            "\r",
+            "\n",
+            "a",
+            " ")
+        .list()
+        .ofMaxSize(100)
+        .map(codePoints -> String.join("", codePoints));
+  }
+
+  @Property
+  void iteratingOverSameReversedChannelGraphemesMultipleTimesProducesSameResult(
+      @ForAll String string, @ForAll @IntRange(min = 2, max = 25) int times) {
+    // given
+    var uniqueResults = new HashSet<ImmutableList<String>>();
+    var graphemes = ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8(string), 4);
+
+    // when
+    for (int i = 0; i < times; i++) {
+      uniqueResults.add(ImmutableList.copyOf(graphemes.iterator()));
+    }
+
+    // then
+    assertThat(uniqueResults).hasSize(1);
+  }
+}
@@ -0,0 +1,129 @@
+package org.jbduncan;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static org.jbduncan.IteratorTesters.iteratorTester;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReversedChannelGraphemesTests {
+
+  private static final String SMILEY = "\uD83D\uDE00";
+  private static final String UK_FLAG = "\uD83C\uDDEC\uD83C\uDDE7";
+  // MAN, ZERO WIDTH JOINER, WOMAN, ZERO WIDTH JOINER, GIRL
+  private static final String FAMILY = "\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67";
+  // 'e' followed by COMBINING ACUTE ACCENT
+  private static final String DECOMPOSED_E_ACUTE = "e\u0301";
+
+  @Test
+  void throwsNullPointerExceptionWhenGivenNullChannel() {
+    assertThrows(NullPointerException.class, () -> ReversedChannelGraphemes.of(null));
+  }
+
+  @Test
+  void throwsIllegalArgumentExceptionWhenGivenTooSmallBlockSize() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8("abc"), 3));
+  }
+
+  @Test
+  void noGraphemes() {
+    // when
+    var graphemes = ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8(""));
+
+    // then
+    assertIterableEquals(emptyList(), graphemes);
+  }
+
+  @Test
+  void twoAsciiGraphemes() {
+    // when
+    var graphemes = ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8("ab"));
+
+    // then
+    assertIterableEquals(List.of("b", "a"), graphemes);
+  }
+
+  @Test
+  void multibyteGraphemesSpanningBlocks() {
+    // when
+    var graphemes =
+        ReversedChannelGraphemes.of(
+            ByteArrayChannel.ofUtf8(SMILEY + UK_FLAG + FAMILY + DECOMPOSED_E_ACUTE + "a"), 4);
+
+    // then
+    assertIterableEquals(List.of("a", DECOMPOSED_E_ACUTE, FAMILY, UK_FLAG, SMILEY), graphemes);
+  }
+
+  @Test
+  void runOfFlagsSpanningBlocks() {
+    // when
+    var graphemes =
+        ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8("a" + UK_FLAG + UK_FLAG + UK_FLAG), 4);
+
+    // then
+    assertIterableEquals(List.of(UK_FLAG, UK_FLAG, UK_FLAG, "a"), graphemes);
+  }
+
+  @Test
+  void runOfDecomposedGraphemesSpanningBlocks() {
+    // when
+    var graphemes =
+        ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8(DECOMPOSED_E_ACUTE.repeat(10)), 4);
+
+    // then
+    assertIterableEquals(Collections.nCopies(10, DECOMPOSED_E_ACUTE), graphemes);
+  }
+
+  @Test
+  void fileTail(@TempDir Path tempDir) throws IOException {
+    // given
+    var file = tempDir.resolve("log.txt");
+    Files.writeString(file, "line 1\r\nline 2 " + SMILEY + "\r\n", UTF_8);
+
+    // when
+    try (var channel = FileChannel.open(file)) {
+      var graphemes = ReversedChannelGraphemes.of(channel, 4);
+
+      // then
+      assertIterableEquals(
+          ImmutableList.copyOf(Graphemes.of("line 1\r\nline 2 " + SMILEY + "\r\n").reversed()),
+          graphemes);
+    }
+  }
+
+  @Test
+  void reversedChannelGraphemesFulfillsIteratorContract() {
+    // given
+    var expectedGraphemes = List.of("e", "d", "c", "b", "a");
+
+    // when
+    var actualGraphemes = ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8("abcde"), 4);
+
+    // then
+    iteratorTester(actualGraphemes, expectedGraphemes).test();
+  }
+
+  @Test
+  void reversedChannelGraphemesFulfillsIteratorForEachRemainingContract() {
+    // given
+    var expectedGraphemes = List.of("e", "d", "c", "b", "a");
+
+    // when
+    var actualGraphemes = ReversedChannelGraphemes.of(ByteArrayChannel.ofUtf8("abcde"), 4);
+
+    // then
+    iteratorTester(actualGraphemes, expectedGraphemes).testForEachRemaining();
+  }
+}